@@ -1,42 +1,65 @@
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 // ─────────────────────────────────────────────
-//  Student class: holds one student's data
+//  Student class: holds one student's data.
+//  Score updates are synchronized on the
+//  student so the distribution stays exact.
 // ─────────────────────────────────────────────
 class Student {
     private String name;
     private ArrayList<Double> scores;
+    private double sum;
+    private GradeDistribution distribution;
 
     public Student(String name) {
         this.name = name;
         this.scores = new ArrayList<>();
     }
 
-    public void addScore(double score) {
+    public synchronized void addScore(double score) {
+        String before = getLetterGrade();
         scores.add(score);
+        sum += score;
+        if (distribution != null) {
+            distribution.recordScore(score);
+            distribution.moveLetter(before, getLetterGrade());
+        }
+    }
+
+    // Links this student to a distribution; existing scores are counted once
+    // and every later addScore updates it in place.
+    synchronized void attach(GradeDistribution d) {
+        if (distribution != null)
+            throw new IllegalStateException(name + " is already attached to a distribution");
+        distribution = d;
+        for (double s : scores) d.recordScore(s);
+        d.moveLetter(null, getLetterGrade());
     }
 
     public String getName() { return name; }
 
-    public double getAverage() {
-        if (scores.isEmpty()) return 0;
-        double sum = 0;
-        for (double s : scores) sum += s;
-        return sum / scores.size();
+    public synchronized double getAverage() {
+        return scores.isEmpty() ? 0 : sum / scores.size();
     }
 
-    public double getHighest() {
+    public synchronized double getHighest() {
         return scores.isEmpty() ? 0 : Collections.max(scores);
     }
 
-    public double getLowest() {
+    public synchronized double getLowest() {
         return scores.isEmpty() ? 0 : Collections.min(scores);
     }
 
-    public String getLetterGrade() {
-        double avg = getAverage();
+    public synchronized String getLetterGrade() {
+        return letterFor(getAverage());
+    }
+
+    static String letterFor(double avg) {
         if (avg >= 90) return "A";
         if (avg >= 80) return "B";
         if (avg >= 70) return "C";
@@ -44,7 +67,54 @@ class Student {
         return "F";
     }
 
-    public ArrayList<Double> getScores() { return scores; }
+    public synchronized double getSum() { return sum; }
+
+    public synchronized int getScoreCount() { return scores.size(); }
+
+    public synchronized List<Double> getScores() { return List.copyOf(scores); }
+}
+
+// ─────────────────────────────────────────────
+//  GradeDistribution: live score histogram and
+//  letter-grade counts on lock-free counters
+// ─────────────────────────────────────────────
+class GradeDistribution {
+    static final String[] LETTERS = { "A", "B", "C", "D", "F" };
+    static final int BUCKETS = 10;   // 0–9, 10–19, … 90–100
+
+    private final AtomicLongArray scoreBuckets  = new AtomicLongArray(BUCKETS);
+    private final AtomicLongArray letterCounts  = new AtomicLongArray(LETTERS.length);
+
+    void recordScore(double score) {
+        scoreBuckets.incrementAndGet(bucketOf(score));
+    }
+
+    // Moves one student from one letter to another; null means "none".
+    void moveLetter(String from, String to) {
+        if (from != null && from.equals(to)) return;
+        if (from != null) letterCounts.decrementAndGet(letterIndex(from));
+        if (to   != null) letterCounts.incrementAndGet(letterIndex(to));
+    }
+
+    long getBucketCount(int bucket)  { return scoreBuckets.get(bucket); }
+    long getLetterCount(String letter) { return letterCounts.get(letterIndex(letter)); }
+
+    static String bucketLabel(int bucket) {
+        int lo = bucket * 10;
+        int hi = bucket == BUCKETS - 1 ? 100 : lo + 9;
+        return lo + "–" + hi;
+    }
+
+    static int bucketOf(double score) {
+        int b = (int) (score / 10);
+        return Math.max(0, Math.min(BUCKETS - 1, b));
+    }
+
+    static int letterIndex(String letter) {
+        for (int i = 0; i < LETTERS.length; i++)
+            if (LETTERS[i].equals(letter)) return i;
+        throw new IllegalArgumentException("Unknown letter grade: " + letter);
+    }
 }
 
 // ─────────────────────────────────────────────
@@ -52,7 +122,8 @@ class Student {
 // ─────────────────────────────────────────────
 public class StudentGradeTracker {
 
-    static ArrayList<Student> students = new ArrayList<>();
+    static List<Student> students = new CopyOnWriteArrayList<>();
+    static GradeDistribution distribution = new GradeDistribution();
     static Scanner scanner = new Scanner(System.in);
 
     public static void main(String[] args) {
@@ -108,12 +179,12 @@ public class StudentGradeTracker {
             }
         }
 
-        if (student.getScores().isEmpty()) {
+        if (student.getScoreCount() == 0) {
             System.out.println("  ⚠  No scores added. Student not saved.\n");
             return;
         }
 
-        students.add(student);
+        enroll(student);
         System.out.printf("%n  ✅ %s added! Average: %.1f (%s)%n%n",
             name, student.getAverage(), student.getLetterGrade());
     }
@@ -172,8 +243,10 @@ public class StudentGradeTracker {
 
         for (Student s : students) {
             double avg = s.getAverage();
-            classSum  += s.getAverage() * s.getScores().size();
-            totalScores += s.getScores().size();
+            synchronized (s) {
+                classSum    += s.getSum();
+                totalScores += s.getScoreCount();
+            }
             if (avg > classHigh) { classHigh = avg; topStudent = s; }
             if (s.getLowest() < classLow) classLow = s.getLowest();
         }
@@ -201,11 +274,45 @@ public class StudentGradeTracker {
         System.out.printf( "║  CLASS HIGHEST: %-4.1f  |  CLASS LOWEST: %-4.1f          ║%n", classHigh, classLow);
         if (topStudent != null)
             System.out.printf("║  TOP STUDENT:  %-36s ║%n", topStudent.getName());
+        System.out.println("╠══════════════════════════════════════════════════════╣");
+        System.out.println("║  GRADE DISTRIBUTION                                  ║");
+        long[] letterCounts = new long[GradeDistribution.LETTERS.length];
+        for (int i = 0; i < letterCounts.length; i++)
+            letterCounts[i] = distribution.getLetterCount(GradeDistribution.LETTERS[i]);
+        long letterMax = max(letterCounts);
+        for (int i = 0; i < letterCounts.length; i++)
+            printBarRow(GradeDistribution.LETTERS[i], letterCounts[i], letterMax);
+
+        System.out.println("╠══════════════════════════════════════════════════════╣");
+        System.out.println("║  SCORE DISTRIBUTION                                  ║");
+        long[] bucketCounts = new long[GradeDistribution.BUCKETS];
+        for (int i = 0; i < bucketCounts.length; i++)
+            bucketCounts[i] = distribution.getBucketCount(i);
+        long bucketMax = max(bucketCounts);
+        for (int i = bucketCounts.length - 1; i >= 0; i--)
+            printBarRow(GradeDistribution.bucketLabel(i), bucketCounts[i], bucketMax);
+
         System.out.println("╚══════════════════════════════════════════════════════╝");
         System.out.println();
     }
 
     // ── Helpers ────────────────────────────────
+    static void enroll(Student s) {
+        s.attach(distribution);
+        students.add(s);
+    }
+
+    static void printBarRow(String label, long count, long max) {
+        int width = max > 0 ? (int) Math.round(count * 34.0 / max) : 0;
+        System.out.printf("║  %-7s %-34s %5d    ║%n", label, "█".repeat(width), count);
+    }
+
+    static long max(long[] values) {
+        long m = 0;
+        for (long v : values) m = Math.max(m, v);
+        return m;
+    }
+
     static String truncate(String s, int max) {
         return s.length() > max ? s.substring(0, max - 1) + "…" : s;
     }